@@ -2,16 +2,22 @@
 cd /d "%~dp0\.."
 
 set JAR_FILE=.\target\credit-simulator-1.0-SNAPSHOT.jar
+set CDS_ARCHIVE=.\target\app.jsa
 
-:: Periksa apakah JAR sudah ada, jika tidak, build dengan Maven
+:: Periksa apakah JAR sudah ada, jika tidak, build dengan Maven (termasuk arsip AppCDS)
 if not exist %JAR_FILE% (
     echo JAR file not found! Building with Maven...
-    mvn clean package -DskipTests
+    mvn clean package -DskipTests -P cds
 )
 
+:: Arsip AppCDS dari "mvn -P cds package"; jika tidak cocok lagi dengan JAR, JVM mengabaikannya tanpa pesan
+set JVM_OPTS=%JAVA_OPTS%
+if exist %CDS_ARCHIVE% set JVM_OPTS=%JVM_OPTS% -XX:SharedArchiveFile=%CDS_ARCHIVE% -Xlog:cds=off,cds+dynamic=off
+
+:: Mode file (argumen pertama bukan opsi --...): konfigurasi log minimal tanpa file log dan thread async
+set ARG1=%~1
+set LOG_OPTS=
+if not "%ARG1%"=="" if not "%ARG1:~0,2%"=="--" set LOG_OPTS=-Dlogback.configurationFile=logback-cli.xml
+
 :: Jalankan aplikasi dengan atau tanpa argumen
-if "%1"=="" (
-    java -jar %JAR_FILE%
-) else (
-    java -jar %JAR_FILE% %*
-)
+java %JVM_OPTS% %LOG_OPTS% -jar %JAR_FILE% %*
@@ -4,16 +4,26 @@
 cd "$(dirname "$0")/.."
 
 JAR_FILE="./target/credit-simulator-1.0-SNAPSHOT.jar"
+CDS_ARCHIVE="./target/app.jsa"
 
-# Periksa apakah JAR sudah ada, jika tidak, build dengan Maven
+# Periksa apakah JAR sudah ada, jika tidak, build dengan Maven (termasuk arsip AppCDS)
 if [ ! -f "$JAR_FILE" ]; then
     echo "JAR file not found! Building with Maven..."
-    mvn clean package -DskipTests
+    mvn clean package -DskipTests -P cds
 fi
 
-# Jalankan aplikasi dengan atau tanpa argumen
-if [ "$#" -gt 0 ]; then
-    java -jar "$JAR_FILE" "$@"
-else
-    java -jar "$JAR_FILE"
+# Opsi JVM tambahan bisa diberikan lewat JAVA_OPTS
+JVM_OPTS=($JAVA_OPTS)
+
+# Arsip AppCDS dari "mvn -P cds package"; jika tidak cocok lagi dengan JAR, JVM mengabaikannya tanpa pesan
+if [ -f "$CDS_ARCHIVE" ]; then
+    JVM_OPTS+=("-XX:SharedArchiveFile=$CDS_ARCHIVE" "-Xlog:cds=off,cds+dynamic=off")
+fi
+
+# Mode file (argumen pertama bukan opsi --...): konfigurasi log minimal tanpa file log dan thread async
+if [ "$#" -gt 0 ] && [ "${1#--}" = "$1" ]; then
+    JVM_OPTS+=("-Dlogback.configurationFile=logback-cli.xml")
 fi
+
+# Jalankan aplikasi dengan atau tanpa argumen
+exec java "${JVM_OPTS[@]}" -jar "$JAR_FILE" "$@"
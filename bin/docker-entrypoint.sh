@@ -0,0 +1,13 @@
+#!/bin/sh
+
+# Entrypoint image Docker. Kelas dari arsip AppCDS dimuat tanpa parsing dan verifikasi ulang.
+# Opsi JVM tambahan bisa diberikan lewat JAVA_OPTS, misalnya -Dlogback.configurationFile=... untuk mengganti konfigurasi log.
+JVM_OPTS="-XX:SharedArchiveFile=/app/app.jsa -Xlog:cds=off,cds+dynamic=off"
+
+# Mode file (argumen pertama bukan opsi --...): konfigurasi log minimal seperti run latihan AppCDS.
+# Mode lain (--server, --batch, web service) tetap memakai logback.xml dengan file log dan appender async.
+if [ "$#" -gt 0 ] && [ "${1#--}" = "$1" ]; then
+    JVM_OPTS="$JVM_OPTS -Dlogback.configurationFile=logback-cli.xml"
+fi
+
+exec java $JVM_OPTS $JAVA_OPTS -jar "$JAR_FILE" "$@"
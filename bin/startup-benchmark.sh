@@ -0,0 +1,52 @@
+#!/bin/bash
+
+# Mengukur waktu start mode file: waktu sampai hasil pertama ("Rp. ...") muncul dan total waktu proses,
+# untuk "java -jar" biasa dibandingkan dengan mode start cepat (arsip AppCDS + konfigurasi log minimal).
+# Pemakaian: bin/startup-benchmark.sh [jumlah_run] [file_input]
+
+# Pindah ke direktori root proyek agar bisa dijalankan dari mana saja
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-10}"
+INPUT="${2:-src/cds/training_input.txt}"
+JAR_FILE="./target/credit-simulator-1.0-SNAPSHOT.jar"
+CDS_ARCHIVE="./target/app.jsa"
+
+if [ ! -f "$JAR_FILE" ] || [ ! -f "$CDS_ARCHIVE" ]; then
+    echo "JAR or CDS archive not found! Building with Maven..."
+    mvn clean package -DskipTests -P cds
+fi
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Satu run; mencetak "<ms sampai hasil pertama> <ms total>"
+run_once() {
+    local start first="" line
+    start=$(now_ms)
+    while IFS= read -r line; do
+        if [ -z "$first" ] && [[ "$line" == *"Rp. "* ]]; then
+            first=$(( $(now_ms) - start ))
+        fi
+    done < <(java "$@" -jar "$JAR_FILE" "$INPUT" 2>&1)
+    echo "${first:--1} $(( $(now_ms) - start ))"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+measure() {
+    local label="$1" results
+    shift
+    # Satu run pemanasan agar cache file sistem operasi terisi
+    run_once "$@" > /dev/null
+    results=$(for ((i = 0; i < RUNS; i++)); do run_once "$@"; done)
+    printf "%-12s first result %5s ms   total %5s ms   (median of %s runs)\n" "$label" \
+        "$(cut -d' ' -f1 <<< "$results" | median)" "$(cut -d' ' -f2 <<< "$results" | median)" "$RUNS"
+}
+
+measure "baseline" -Dstartup.benchmark=baseline
+measure "fast-start" "-XX:SharedArchiveFile=$CDS_ARCHIVE" "-Xlog:cds=off,cds+dynamic=off" \
+    "-Dlogback.configurationFile=logback-cli.xml"